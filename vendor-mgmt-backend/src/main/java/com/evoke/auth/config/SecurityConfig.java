@@ -2,6 +2,7 @@ package com.evoke.auth.config;
 
 import com.evoke.auth.security.CustomUserDetailsService;
 import com.evoke.auth.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -79,6 +80,8 @@ public class SecurityConfig {
                 })
             )
             .authorizeHttpRequests(authz -> authz
+                // Async dispatches (completing a notification stream) belong to a request that was already authorized
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 // Public endpoints - ORDER MATTERS, most specific first
                 .requestMatchers("/", "/index.html", "/error").permitAll()
                 .requestMatchers("/assets/**", "/static/**").permitAll()  // Allow all static assets
@@ -95,6 +98,7 @@ public class SecurityConfig {
                 .requestMatchers("/api/v1/vendor/by-email").permitAll()  // Allow vendor to get their request by email
                 .requestMatchers("/api/v1/vendor/onboarding").permitAll()  // Allow vendor onboarding submission (POST)
                 .requestMatchers("/api/v1/vendor/onboarding/*").permitAll()  // Allow vendor to access their onboarding data (GET)
+                .requestMatchers("/api/v1/vendor/document-verification/jobs", "/api/v1/vendor/document-verification/jobs/**").authenticated()  // Verification jobs belong to the vendor's OTP session
                 .requestMatchers("/api/v1/vendor/document-verification/**").permitAll()  // Allow document verification
                 .requestMatchers("/login", "/vendor-mgmt-frontend/**").permitAll()
 
@@ -58,7 +58,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             || path.startsWith("/api/v1/vendor/otp/")
             || path.startsWith("/api/v1/vendor/invite/")
             || path.startsWith("/api/v1/vendor/onboarding")
-            || path.startsWith("/api/v1/vendor/document-verification")
+            || (path.startsWith("/api/v1/vendor/document-verification")
+                    && !path.startsWith("/api/v1/vendor/document-verification/jobs"))
             || path.startsWith("/actuator")
             || path.startsWith("/v3/api-docs")
             || path.startsWith("/swagger-ui")
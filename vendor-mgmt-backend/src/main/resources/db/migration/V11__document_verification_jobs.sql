@@ -0,0 +1,27 @@
+-- V11: Asynchronous document verification jobs and persisted verification results
+CREATE TABLE dbo.document_verification_jobs (
+    id BIGINT PRIMARY KEY IDENTITY(1,1),
+    job_id VARCHAR(36) NOT NULL,
+    document_type VARCHAR(50) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    vendor_request_id BIGINT,
+    original_file_name VARCHAR(255),
+    content_type VARCHAR(100),
+    stored_file_name VARCHAR(500),
+    request_data TEXT,
+    result_data TEXT,
+    verified BIT,
+    confidence_score FLOAT,
+    verification_status VARCHAR(50),
+    error_message VARCHAR(1000),
+    created_at DATETIME2 NOT NULL DEFAULT GETDATE(),
+    started_at DATETIME2,
+    completed_at DATETIME2,
+    CONSTRAINT UQ_document_verification_jobs_job_id UNIQUE (job_id),
+    FOREIGN KEY (vendor_request_id) REFERENCES dbo.vendor(id)
+);
+GO
+
+CREATE INDEX IX_document_verification_jobs_status ON dbo.document_verification_jobs(status);
+CREATE INDEX IX_document_verification_jobs_vendor_request ON dbo.document_verification_jobs(vendor_request_id);
+GO
@@ -0,0 +1,14 @@
+-- V12: Incrementally maintained per-day analytics counters for the procurement dashboard
+CREATE TABLE dbo.analytics_daily_rollup (
+    id BIGINT PRIMARY KEY IDENTITY(1,1),
+    metric_date DATE NOT NULL,
+    metric VARCHAR(50) NOT NULL,
+    dimension VARCHAR(50) NOT NULL DEFAULT '',
+    metric_value BIGINT NOT NULL DEFAULT 0,
+    updated_at DATETIME2 NOT NULL DEFAULT GETDATE(),
+    CONSTRAINT UQ_analytics_daily_rollup_day_metric UNIQUE (metric_date, metric, dimension)
+);
+GO
+
+CREATE INDEX IX_analytics_daily_rollup_metric_date ON dbo.analytics_daily_rollup(metric_date);
+GO
@@ -0,0 +1,9 @@
+-- V13: Indexes matching the activity log's keyset pagination order (performed_at DESC, id DESC)
+DROP INDEX IF EXISTS idx_activity_log_performed_at ON dbo.vendor_activity_log;
+GO
+
+CREATE INDEX IX_activity_log_performed_at_id ON dbo.vendor_activity_log(performed_at DESC, id DESC);
+GO
+
+CREATE INDEX IX_activity_log_vendor_performed_at_id ON dbo.vendor_activity_log(vendor_request_id, performed_at DESC, id DESC);
+GO
@@ -0,0 +1,15 @@
+-- V14: Manifest of activity log months exported to compressed archive files and removed from the hot table
+CREATE TABLE dbo.activity_log_archive (
+    id BIGINT PRIMARY KEY IDENTITY(1,1),
+    archive_month DATE NOT NULL,
+    file_name VARCHAR(255) NOT NULL,
+    row_count BIGINT NOT NULL,
+    max_activity_id BIGINT NOT NULL,
+    content_hash VARCHAR(64) NOT NULL,
+    archived_at DATETIME2 NOT NULL DEFAULT GETDATE(),
+    CONSTRAINT UQ_activity_log_archive_file_name UNIQUE (file_name)
+);
+GO
+
+CREATE INDEX IX_activity_log_archive_month ON dbo.activity_log_archive(archive_month);
+GO
@@ -0,0 +1,12 @@
+-- V15: Indexes matching the vendor listing's keyset sort orders (sort column, id); filters on deleted_at are covered
+DROP INDEX IF EXISTS idx_vendor_status ON dbo.vendor;
+GO
+
+CREATE INDEX IX_vendor_name_id ON dbo.vendor(vendor_name, id) INCLUDE (deleted_at);
+GO
+
+CREATE INDEX IX_vendor_created_at_id ON dbo.vendor(created_at, id) INCLUDE (deleted_at);
+GO
+
+CREATE INDEX IX_vendor_status_id ON dbo.vendor(status, id) INCLUDE (deleted_at);
+GO
@@ -0,0 +1,5 @@
+-- V16: Onboarding values are only kept while a verification job can still run; clear them from finished jobs
+UPDATE dbo.document_verification_jobs
+SET request_data = NULL
+WHERE status IN ('COMPLETED', 'FAILED') AND request_data IS NOT NULL;
+GO
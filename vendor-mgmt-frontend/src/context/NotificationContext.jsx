@@ -4,6 +4,9 @@ import { useAuth } from './AuthContext';
 
 const NotificationContext = createContext();
 
+const STREAM_RETRY_MIN_MS = 1000;
+const STREAM_RETRY_MAX_MS = 30000;
+
 export const useNotifications = () => {
   const context = useContext(NotificationContext);
   if (!context) {
@@ -25,7 +28,10 @@ export const NotificationProvider = ({ children }) => {
       setLoading(true);
       const response = await notificationService.getAllNotifications();
       if (response.success) {
-        setNotifications(response.data || []);
+        const loaded = response.data || [];
+        const newestLoadedId = loaded.reduce((max, n) => Math.max(max, n.id), 0);
+        // Keep anything the stream pushed after the list was read
+        setNotifications(prev => [...prev.filter(n => n.id > newestLoadedId), ...loaded]);
       }
     } catch (error) {
       // Silently fail for 401 errors (authentication issues)
@@ -84,7 +90,9 @@ export const NotificationProvider = ({ children }) => {
     }
   };
 
-  // Poll for new notifications every 30 seconds
+  // New notifications and unread counts are pushed over a server-sent event stream. On reconnect the last
+  // event id is sent so the server replays what was missed, or asks for a full reload when it cannot. The
+  // first connect is always answered with a reload request, so the list is read only once the stream is live.
   useEffect(() => {
     if (!isAuthenticated) {
       // Clear notifications when not authenticated
@@ -93,19 +101,51 @@ export const NotificationProvider = ({ children }) => {
       return;
     }
 
-    // Add a small delay to ensure token is set
-    const initTimer = setTimeout(() => {
-      fetchNotifications();
-      fetchUnreadCount();
-    }, 500);
+    const controller = new AbortController();
+    let lastEventId = null;
+    let retryDelay = STREAM_RETRY_MIN_MS;
+
+    const handleEvent = (event) => {
+      if (event.id) lastEventId = event.id;
+      retryDelay = STREAM_RETRY_MIN_MS;
+      if (event.type === 'notification') {
+        const notification = JSON.parse(event.data);
+        setNotifications(prev =>
+          prev.some(n => n.id === notification.id) ? prev : [notification, ...prev]
+        );
+      } else if (event.type === 'unread-count') {
+        setUnreadCount(Number(event.data) || 0);
+      } else if (event.type === 'resync') {
+        fetchNotifications();
+      }
+    };
 
-    const interval = setInterval(() => {
-      fetchUnreadCount();
-    }, 30000); // 30 seconds
+    const waitForRetry = (delay) => new Promise(resolve => {
+      const timer = setTimeout(resolve, delay);
+      controller.signal.addEventListener('abort', () => { clearTimeout(timer); resolve(); }, { once: true });
+    });
+
+    const connect = async () => {
+      while (!controller.signal.aborted) {
+        try {
+          await notificationService.openStream({ lastEventId, onEvent: handleEvent, signal: controller.signal });
+        } catch (error) {
+          if (controller.signal.aborted) return;
+          // Signed out or token expired; the stream reopens when the user signs in again
+          if (error.status === 401 || error.status === 403) return;
+          console.warn('Notification stream disconnected:', error.message);
+        }
+        await waitForRetry(retryDelay);
+        retryDelay = Math.min(retryDelay * 2, STREAM_RETRY_MAX_MS);
+      }
+    };
+
+    // Add a small delay to ensure token is set
+    const initTimer = setTimeout(connect, 500);
 
     return () => {
       clearTimeout(initTimer);
-      clearInterval(interval);
+      controller.abort();
     };
   }, [isAuthenticated]);
 
@@ -6,26 +6,38 @@ import Sidebar from './Sidebar';
 import Header from '../../components/Header';
 import styles from './Dashboard.module.css';
 
+const PAGE_SIZE = 50;
+
 export default function ActivityLog() {
   const navigate = useNavigate();
   const [activities, setActivities] = useState([]);
   const [loading, setLoading] = useState(true);
+  const [loadingMore, setLoadingMore] = useState(false);
+  const [nextCursor, setNextCursor] = useState(null);
   const [selectedVendor, setSelectedVendor] = useState(null);
   const [filterType, setFilterType] = useState('ALL');
 
   useEffect(() => {
-    fetchAllActivities();
-  }, []);
+    fetchActivities();
+  }, [selectedVendor, filterType]);
 
-  const fetchAllActivities = async () => {
+  // Loads the first page for the current filters, or appends the page after cursor
+  const fetchActivities = async (cursor = null) => {
     try {
-      setLoading(true);
-      const response = await procurementService.getAllActivities();
+      cursor ? setLoadingMore(true) : setLoading(true);
+      const response = await procurementService.getActivityLogPage({
+        vendorId: selectedVendor,
+        type: filterType === 'ALL' ? null : filterType,
+        cursor,
+        limit: PAGE_SIZE,
+      });
       if (response.success) {
-        setActivities(response.data || []);
+        const items = response.data?.items || [];
+        setActivities((previous) => (cursor ? [...previous, ...items] : items));
+        setNextCursor(response.data?.nextCursor || null);
       } else {
         toast.error(response.message || 'Failed to fetch activities');
-        setActivities([]);
+        if (!cursor) setActivities([]);
       }
     } catch (error) {
       console.error('Error fetching activities:', error);
@@ -34,38 +46,26 @@ export default function ActivityLog() {
         return;
       }
       toast.error('Failed to load activity log');
-      setActivities([]);
+      if (!cursor) setActivities([]);
     } finally {
       setLoading(false);
+      setLoadingMore(false);
     }
   };
 
-  const fetchVendorActivities = async (vendorId) => {
+  const handleExport = async () => {
     try {
-      setLoading(true);
-      const response = await procurementService.getVendorActivityLog(vendorId);
-      if (response.success) {
-        setActivities(response.data || []);
-        setSelectedVendor(vendorId);
-      } else {
-        toast.error(response.message || 'Failed to fetch vendor activities');
-        setActivities([]);
-      }
+      await procurementService.exportActivityLog('csv', {
+        vendorId: selectedVendor,
+        type: filterType === 'ALL' ? null : filterType,
+      });
     } catch (error) {
-      console.error('Error fetching vendor activities:', error);
-      if (error.response?.status === 401) {
-        return;
-      }
-      toast.error('Failed to load vendor activity log');
-      setActivities([]);
-    } finally {
-      setLoading(false);
+      console.error('Error exporting activities:', error);
+      toast.error('Failed to export activity log');
     }
   };
 
-  const filteredActivities = filterType === 'ALL' 
-    ? activities 
-    : activities.filter(a => a.activityType === filterType);
+  const filteredActivities = activities;
 
   const getActivityIcon = (type) => {
     const icons = {
@@ -152,10 +152,7 @@ export default function ActivityLog() {
             alignItems: 'center'
           }}>
             <button
-              onClick={() => {
-                setSelectedVendor(null);
-                fetchAllActivities();
-              }}
+              onClick={() => setSelectedVendor(null)}
               style={{
                 padding: '8px 16px',
                 background: selectedVendor === null ? '#0a5f3f' : 'white',
@@ -194,8 +191,24 @@ export default function ActivityLog() {
             </select>
 
             <span style={{ color: '#6b7280', fontSize: '14px', marginLeft: 'auto' }}>
-              {filteredActivities.length} activities
+              {filteredActivities.length}{nextCursor ? '+' : ''} activities
             </span>
+
+            <button
+              onClick={handleExport}
+              style={{
+                padding: '8px 16px',
+                background: 'white',
+                color: '#374151',
+                border: '1px solid #d1d5db',
+                borderRadius: '6px',
+                fontSize: '14px',
+                cursor: 'pointer',
+                fontWeight: 500
+              }}
+            >
+              Export CSV
+            </button>
           </div>
 
           {/* Activity Timeline */}
@@ -300,6 +313,27 @@ export default function ActivityLog() {
                   </div>
                 </div>
               ))}
+
+              {nextCursor && (
+                <div style={{ textAlign: 'center', paddingTop: '8px' }}>
+                  <button
+                    onClick={() => fetchActivities(nextCursor)}
+                    disabled={loadingMore}
+                    style={{
+                      padding: '8px 16px',
+                      background: 'white',
+                      color: '#374151',
+                      border: '1px solid #d1d5db',
+                      borderRadius: '6px',
+                      fontSize: '14px',
+                      cursor: loadingMore ? 'default' : 'pointer',
+                      fontWeight: 500
+                    }}
+                  >
+                    {loadingMore ? 'Loading...' : 'Load more'}
+                  </button>
+                </div>
+              )}
             </div>
           )}
           </div>
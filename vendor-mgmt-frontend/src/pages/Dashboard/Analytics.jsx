@@ -65,7 +65,8 @@ const Analytics = () => {
         fetch('http://localhost:8080/api/v1/procurement/follow-ups', {
           headers: { 'Authorization': `Bearer ${localStorage.getItem('authToken')}` }
         }),
-        fetch('http://localhost:8080/api/v1/procurement/activity-log/all', {
+        // Most recent page of activities; the type distribution is drawn from these
+        fetch('http://localhost:8080/api/v1/procurement/activity-log?limit=500', {
           headers: { 'Authorization': `Bearer ${localStorage.getItem('authToken')}` }
         })
       ]);
@@ -101,8 +102,7 @@ const Analytics = () => {
       if (activitiesRes.ok) {
         const json = await activitiesRes.json();
         console.debug('activitiesRes JSON:', json);
-        const activitiesData = json?.data ?? (Array.isArray(json) ? json : []);
-        setActivities(activitiesData);
+        setActivities(json?.data?.items ?? []);
       } else {
         console.warn('Failed to fetch activities', activitiesRes.status);
       }
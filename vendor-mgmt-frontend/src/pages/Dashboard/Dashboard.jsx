@@ -61,7 +61,7 @@ const Dashboard = () => {
           fetch('https://vendor-onboarding-mgmt.azurewebsites.net/api/v1/procurement/follow-ups', {
             headers: { 'Authorization': `Bearer ${localStorage.getItem('authToken')}` }
           }),
-          fetch('https://vendor-onboarding-mgmt.azurewebsites.net/api/v1/procurement/activity-log/all', {
+          fetch('https://vendor-onboarding-mgmt.azurewebsites.net/api/v1/procurement/activity-log?limit=5', {
             headers: { 'Authorization': `Bearer ${localStorage.getItem('authToken')}` }
           })
         ]);
@@ -79,8 +79,7 @@ const Dashboard = () => {
 
         if (activitiesRes.ok) {
           const actJson = await activitiesRes.json();
-          const activities = actJson?.data ?? (Array.isArray(actJson) ? actJson : []);
-          setRecentActivities(activities.slice(0, 5));
+          setRecentActivities(actJson?.data?.items ?? []);
         }
       } catch (error) {
         console.error('Error fetching dashboard data:', error);
@@ -27,7 +27,7 @@ export default function Home() {
       try {
         const [vendorsResponse, activitiesResponse] = await Promise.all([
           procurementService.getAllVendors(),
-          procurementService.getAllActivities()
+          procurementService.getActivityLogPage({ limit: 5 })
         ])
 
         if (vendorsResponse.success && vendorsResponse.data) {
@@ -52,7 +52,7 @@ export default function Home() {
         }
 
         if (activitiesResponse.success && activitiesResponse.data) {
-          setRecentActivities(activitiesResponse.data.slice(0, 5))
+          setRecentActivities(activitiesResponse.data.items || [])
         }
       } catch (error) {
         console.error('Error fetching home data:', error)
@@ -6,12 +6,18 @@ import Sidebar from './Sidebar'
 import Header from '../../components/Header'
 import procurementService from '../../services/procurementService'
 
+const STATUSES = ['REQUESTED', 'AWAITING_RESPONSE', 'MISSING_DATA', 'AWAITING_VALIDATION', 'VALIDATED', 'DENIED']
+
+// Older links used client-side sort fields
+const LEGACY_SORT_FIELDS = { vendorName: 'name', id: 'created' }
+
 export default function VendorsList(){
   const [searchParams, setSearchParams] = useSearchParams()
   const navigate = useNavigate()
 
   // State for API data
   const [vendors, setVendors] = React.useState([])
+  const [total, setTotal] = React.useState(0)
   const [loading, setLoading] = React.useState(true)
   const [error, setError] = React.useState(null)
 
@@ -20,45 +26,171 @@ export default function VendorsList(){
   const initialFilterField = searchParams.get('filterField') || (initialFilterParam ? 'status' : '')
   const initialFilterText = searchParams.get('filterText') || initialFilterParam || ''
   const initialEnable = searchParams.get('enableFilter') === 'true' || !!searchParams.get('filterField') || !!initialFilterParam
-  const initialSortField = searchParams.get('sortField') || 'vendorName'
+  const initialSortParam = searchParams.get('sortField') || 'name'
+  const initialSortField = LEGACY_SORT_FIELDS[initialSortParam] || initialSortParam
   const initialSortOrder = searchParams.get('sortOrder') || 'asc'
-  const initialPage = parseInt(searchParams.get('page') || '1', 10)
   const initialPageSize = parseInt(searchParams.get('pageSize') || '6', 10)
 
   const [enableFilter, setEnableFilter] = React.useState(initialEnable)
   const [filterField, setFilterField] = React.useState(initialFilterField)
   const [filterText, setFilterText] = React.useState(initialFilterText)
+  const [appliedFilterText, setAppliedFilterText] = React.useState(initialFilterText)
 
   const [sortField, setSortField] = React.useState(initialSortField)
   const [sortOrder, setSortOrder] = React.useState(initialSortOrder)
-  const [page, setPage] = React.useState(isNaN(initialPage) ? 1 : initialPage)
   const [pageSize, setPageSize] = React.useState(isNaN(initialPageSize) ? 6 : initialPageSize)
 
-  // Fetch vendors from API
+  // Keyset pages can only be walked in order: cursors[i] fetches page i + 1
+  const [page, setPage] = React.useState(1)
+  const [cursors, setCursors] = React.useState([null])
+  const [nextCursor, setNextCursor] = React.useState(null)
+  const [hasMore, setHasMore] = React.useState(false)
+
+  // Wait for typing to pause before querying the server
+  React.useEffect(() => {
+    const timer = setTimeout(() => setAppliedFilterText(filterText), 300)
+    return () => clearTimeout(timer)
+  }, [filterText])
+
+  const query = React.useMemo(() => {
+    const text = appliedFilterText.trim()
+    if (enableFilter && filterField === 'search' && text !== '') {
+      // Search results are ranked by relevance and paged by number
+      return { search: text, limit: pageSize }
+    }
+    const q = {
+      sort: sortField,
+      direction: sortOrder,
+      limit: pageSize,
+    }
+    if (enableFilter && filterField && text !== '') {
+      if (filterField === 'status') q.status = text
+      else if (filterField === 'category') q.category = text
+      else if (filterField === 'createdBy') q.createdBy = text
+    } else if (!enableFilter && initialFilterParam) {
+      // initial status filter from /vendors?filter=VALIDATED
+      q.status = initialFilterParam
+    }
+    return q
+  }, [enableFilter, filterField, appliedFilterText, initialFilterParam, sortField, sortOrder, pageSize])
+
+  // Any change to filters, sort or page size starts again from the first page
+  React.useEffect(() => {
+    setPage(1)
+    setCursors([null])
+  }, [query])
+
+  // Fetch the current page from the API
   React.useEffect(() => {
     const fetchVendors = async () => {
       setLoading(true)
       setError(null)
       
       try {
-        const statusFilter = initialFilterParam || null
-        const response = await procurementService.getAllVendors(statusFilter)
+        if (query.search) {
+          const response = await procurementService.searchVendors(query.search, page - 1, query.limit)
+          if (response.success && response.data) {
+            setVendors(response.data.items)
+            setTotal(response.data.total)
+            setHasMore(page * query.limit < response.data.total)
+          } else {
+            setError(response.message || 'Failed to search vendors')
+          }
+          return
+        }
+
+        const response = await procurementService.getVendorPage({
+          ...query,
+          cursor: cursors[page - 1],
+          // The total only changes with the filters, so it is counted on the first page
+          includeTotal: page === 1,
+        })
         
         if (response.success && response.data) {
-          setVendors(response.data)
+          setVendors(response.data.items)
+          setNextCursor(response.data.nextCursor)
+          setHasMore(response.data.hasMore)
+          if (response.data.totalCount !== null && response.data.totalCount !== undefined) {
+            setTotal(response.data.totalCount)
+          }
         } else {
           setError(response.message || 'Failed to fetch vendors')
         }
       } catch (err) {
         console.error('Error fetching vendors:', err)
-        setError(err.message || 'An error occurred while fetching vendors')
+        setError(err.response?.data?.message || err.message || 'An error occurred while fetching vendors')
       } finally {
         setLoading(false)
       }
     }
 
     fetchVendors()
-  }, [initialFilterParam])
+  }, [query, page, cursors])
+
+  const hasLoaded = React.useRef(false)
+  React.useEffect(() => { if (!loading) hasLoaded.current = true }, [loading])
+
+  const goToNextPage = () => {
+    if (!hasMore) return
+    if (!query.search) setCursors(c => [...c.slice(0, page), nextCursor])
+    setPage(p => p + 1)
+  }
+
+  const importInput = React.useRef(null)
+
+  const handleImport = async (e) => {
+    const file = e.target.files[0]
+    e.target.value = ''
+    if (!file) return
+    try {
+      toast.loading('Importing vendors...', { id: 'import-vendors' })
+      const response = await procurementService.importVendors(file)
+      const report = response.data
+      toast.success(`${report.imported} imported, ${report.duplicates} duplicate(s), ${report.invalid} invalid`, { id: 'import-vendors', duration: 6000 })
+      if (report.error) {
+        toast.error(response.message, { duration: 10000 })
+      }
+      const problems = report.rows.filter(row => row.outcome !== 'IMPORTED').slice(0, 5)
+      if (problems.length > 0) {
+        toast.error(problems.map(row => `Row ${row.rowNumber}: ${row.message}`).join('; '), { duration: 10000 })
+      }
+      // Reload from the first page so new vendors show up
+      setPage(1)
+      setCursors([null])
+    } catch (err) {
+      console.error('Error importing vendors:', err)
+      toast.error(err.response?.data?.message || 'Failed to import vendors', { id: 'import-vendors' })
+    }
+  }
+
+  // Bulk status changes for the selected vendors
+  const [selectedIds, setSelectedIds] = React.useState([])
+  const [bulkStatus, setBulkStatus] = React.useState('')
+
+  const toggleSelected = (id) => {
+    setSelectedIds(ids => ids.includes(id) ? ids.filter(x => x !== id) : [...ids, id])
+  }
+
+  const handleBulkStatus = async () => {
+    if (!bulkStatus || selectedIds.length === 0) return
+    try {
+      toast.loading('Updating statuses...', { id: 'bulk-status' })
+      const response = await procurementService.updateVendorStatuses(selectedIds, bulkStatus)
+      const report = response.data
+      toast.success(`${report.updated} updated, ${report.unchanged} unchanged, ${report.conflicts} conflict(s), ${report.notFound} not found`, { id: 'bulk-status', duration: 6000 })
+      const problems = report.results.filter(r => r.outcome === 'CONFLICT' || r.outcome === 'NOT_FOUND').slice(0, 5)
+      if (problems.length > 0) {
+        toast.error(problems.map(r => `Vendor ${r.vendorRequestId}: ${r.message}`).join('; '), { duration: 10000 })
+      }
+      const updated = new Set(report.results.filter(r => r.outcome === 'UPDATED').map(r => r.vendorRequestId))
+      setVendors(vs => vs.map(v => updated.has(v.id) ? { ...v, status: report.status } : v))
+      setSelectedIds([])
+      setBulkStatus('')
+    } catch (err) {
+      console.error('Error updating vendor statuses:', err)
+      toast.error(err.response?.data?.message || 'Failed to update vendor statuses', { id: 'bulk-status' })
+    }
+  }
 
   // Export handlers
   const handleExportPDF = async () => {
@@ -104,49 +236,13 @@ export default function VendorsList(){
     params.enableFilter = enableFilter ? 'true' : 'false'
     params.sortField = sortField
     params.sortOrder = sortOrder
-    params.page = String(page)
     params.pageSize = String(pageSize)
     setSearchParams(params, { replace: true })
-  }, [enableFilter, filterField, filterText, sortField, sortOrder, page, pageSize, setSearchParams])
-
-  // compute filtered list
-  const filtered = React.useMemo(()=>{
-    let list = vendors.slice()
-    if(enableFilter && filterField && filterText.trim() !== ''){
-      const q = filterText.trim().toLowerCase()
-      if(filterField === 'vendorid') list = list.filter(v => String(v.id).toLowerCase().includes(q))
-      else if(filterField === 'vendorname') list = list.filter(v => v.vendorName?.toLowerCase().includes(q))
-      else if(filterField === 'status') list = list.filter(v => v.status?.toLowerCase().includes(q))
-    } else if(!enableFilter && initialFilterParam){
-      // initial status filter from /vendors?filter=Active
-      list = list.filter(v => v.status?.toLowerCase() === initialFilterParam.toLowerCase())
-    }
-    return list
-  }, [vendors, enableFilter, filterField, filterText, initialFilterParam])
-
-  // apply sort
-  const sorted = React.useMemo(()=>{
-    const s = filtered.slice()
-    s.sort((a,b)=>{
-      let A = a[sortField] || ''
-      let B = b[sortField] || ''
-      // normalize for name/id/status
-      A = String(A).toLowerCase(); B = String(B).toLowerCase();
-      if(A < B) return sortOrder === 'asc' ? -1 : 1
-      if(A > B) return sortOrder === 'asc' ? 1 : -1
-      return 0
-    })
-    return s
-  }, [filtered, sortField, sortOrder])
-
-  // pagination
-  const total = sorted.length
+  }, [enableFilter, filterField, filterText, sortField, sortOrder, pageSize, setSearchParams])
+
   const totalPages = Math.max(1, Math.ceil(total / pageSize))
-  React.useEffect(()=>{ if(page > totalPages) setPage(1) }, [page, totalPages])
-  const start = (page-1)*pageSize
-  const paged = sorted.slice(start, start+pageSize)
 
-  if (loading) {
+  if (loading && !hasLoaded.current) {
     return (
       <div className={styles.container}>
         <Sidebar />
@@ -197,6 +293,14 @@ export default function VendorsList(){
             >
               + Invite Vendor
             </button>
+            <button
+              className={styles.exportBtn}
+              onClick={() => importInput.current?.click()}
+              title="Import vendors from a CSV or XLSX file with vendorName, vendorEmail, contactPerson, contactNumber, vendorCategory and optional remarks columns"
+            >
+              ⬆ Import
+            </button>
+            <input ref={importInput} type="file" accept=".csv,.xlsx" style={{display:'none'}} onChange={handleImport} />
             <button 
               className={styles.exportBtn} 
               onClick={handleExportPDF}
@@ -225,38 +329,60 @@ export default function VendorsList(){
           <div className={styles.filterControls}>
             <select className={styles.filterSelect} disabled={!enableFilter} value={filterField} onChange={e=>setFilterField(e.target.value)}>
               <option value="">Select field</option>
-              <option value="vendorid">Vendor ID</option>
-              <option value="vendorname">Vendor Name</option>
+              <option value="search">Search</option>
               <option value="status">Status</option>
+              <option value="category">Category</option>
+              <option value="createdBy">Created By</option>
             </select>
 
-            <input
-              className={styles.filterInput}
-              type="text"
-              placeholder={filterField ? `Enter ${filterField}` : 'Select a field first'}
-              disabled={!enableFilter || !filterField}
-              value={filterText}
-              onChange={e=>setFilterText(e.target.value)}
-            />
+            {filterField === 'status' ? (
+              <select className={styles.filterSelect} disabled={!enableFilter} value={filterText.toUpperCase()} onChange={e=>setFilterText(e.target.value)}>
+                <option value="">Any status</option>
+                {STATUSES.map(status => <option key={status} value={status}>{status}</option>)}
+              </select>
+            ) : (
+              <input
+                className={styles.filterInput}
+                type="text"
+                placeholder={filterField === 'search' ? 'Name, email, category or business details' : (filterField ? `Enter ${filterField}` : 'Select a field first')}
+                disabled={!enableFilter || !filterField}
+                value={filterText}
+                onChange={e=>setFilterText(e.target.value)}
+              />
+            )}
 
             <button className={styles.clearBtn} onClick={() => { setEnableFilter(false); setFilterField(''); setFilterText('') }}>Clear</button>
           </div>
 
           <div className={styles.sortControls}>
             <label style={{fontSize:13, color:'#444'}}>Sort:</label>
-            <select value={sortField} onChange={e=>setSortField(e.target.value)} className={styles.filterSelect}>
-              <option value="vendorName">Name</option>
-              <option value="id">ID</option>
+            <select value={sortField} onChange={e=>setSortField(e.target.value)} className={styles.filterSelect} disabled={!!query.search}>
+              <option value="name">Name</option>
+              <option value="created">Created</option>
               <option value="status">Status</option>
             </select>
-            <button className={styles.clearBtn} onClick={()=>setSortOrder(o=> o==='asc' ? 'desc' : 'asc')}>{sortOrder === 'asc' ? '↑' : '↓'}</button>
+            <button className={styles.clearBtn} onClick={()=>setSortOrder(o=> o==='asc' ? 'desc' : 'asc')} disabled={!!query.search}>{sortOrder === 'asc' ? '↑' : '↓'}</button>
           </div>
         </div>
 
         <div style={{marginTop:12,fontSize:13,color:'#666'}}>Results: {total}</div>
 
+        {selectedIds.length > 0 && (
+          <div className={styles.filterBar}>
+            <span>{selectedIds.length} selected</span>
+            <div className={styles.filterControls}>
+              <select className={styles.filterSelect} value={bulkStatus} onChange={e=>setBulkStatus(e.target.value)}>
+                <option value="">Change status to...</option>
+                {STATUSES.map(status => <option key={status} value={status}>{status}</option>)}
+              </select>
+              <button className={styles.exportBtn} onClick={handleBulkStatus} disabled={!bulkStatus}>Apply</button>
+              <button className={styles.clearBtn} onClick={() => setSelectedIds([])}>Clear selection</button>
+            </div>
+          </div>
+        )}
+
         <div className={styles.vendorsGrid}>
-          {paged.map(v => (
+          {vendors.map(v => (
             <div
               key={v.id}
               className={styles.vendorCard}
@@ -266,7 +392,10 @@ export default function VendorsList(){
               onMouseLeave={(e) => { e.currentTarget.style.transform = 'translateY(0)'; e.currentTarget.style.boxShadow = '0 6px 18px rgba(2,6,23,0.06)'; }}
             >
               <div style={{display:'flex',justifyContent:'space-between',alignItems:'center'}}>
-                <strong>{v.vendorName || 'N/A'}</strong>
+                <label style={{display:'flex',alignItems:'center',gap:8}} onClick={e => e.stopPropagation()}>
+                  <input type="checkbox" checked={selectedIds.includes(v.id)} onChange={() => toggleSelected(v.id)} />
+                  <strong>{v.vendorName || 'N/A'}</strong>
+                </label>
                 <span className={styles.vendorStatus}>{v.status || 'Pending'}</span>
               </div>
               <div style={{marginTop:8}}>
@@ -279,19 +408,19 @@ export default function VendorsList(){
           ))}
         </div>
 
-        {paged.length === 0 && (
+        {vendors.length === 0 && (
           <div style={{ textAlign: 'center', padding: '40px', fontSize: '16px', color: '#666' }}>
             No vendors found
           </div>
         )}
 
         {/* Pagination controls */}
-        {totalPages > 1 && (
+        {(totalPages > 1 || page > 1) && (
           <div className={styles.pagination}>
             <div className={styles.pageInfo}>Page {page} of {totalPages}</div>
             <div>
-              <button className={styles.pageBtn} onClick={()=>setPage(p=>Math.max(1,p-1))} disabled={page<=1}>Prev</button>
-              <button className={styles.pageBtn} onClick={()=>setPage(p=>Math.min(totalPages,p+1))} disabled={page>=totalPages}>Next</button>
+              <button className={styles.pageBtn} onClick={()=>setPage(p=>Math.max(1,p-1))} disabled={page<=1 || loading}>Prev</button>
+              <button className={styles.pageBtn} onClick={goToNextPage} disabled={!hasMore || loading}>Next</button>
               <select value={pageSize} onChange={e=>setPageSize(parseInt(e.target.value,10))} className={styles.filterSelect} style={{marginLeft:12}}>
                 <option value={4}>4</option>
                 <option value={6}>6</option>
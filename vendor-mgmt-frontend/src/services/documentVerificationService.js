@@ -99,6 +99,64 @@ const documentVerificationService = {
     });
     return response.data;
   },
+
+  /**
+   * Queue a document for background verification; needs the vendor's OTP session token
+   * @param {string} documentType - BUSINESS_DETAILS, CONTACT_DETAILS, BANKING_DETAILS or COMPLIANCE_DETAILS
+   * @param {File} document - The uploaded document file
+   * @param {Object} data - Onboarding data to verify against
+   * @returns {Promise} - Job with its id and QUEUED status
+   */
+  submitVerificationJob: async (documentType, document, data) => {
+    const formData = new FormData();
+    formData.append('documentType', documentType);
+    formData.append('document', document);
+
+    Object.keys(data).forEach(key => {
+      if (data[key] !== null && data[key] !== '' && data[key] !== undefined) {
+        formData.append(key, data[key]);
+      }
+    });
+
+    const response = await api.post('/vendor/document-verification/jobs', formData, {
+      headers: {
+        'Content-Type': 'multipart/form-data',
+      },
+    });
+    return response.data.data;
+  },
+
+  /**
+   * Get the status of a verification job; the result is included once it has completed
+   * @param {string} jobId - Job id returned by submitVerificationJob
+   * @returns {Promise} - Job status and result
+   */
+  getVerificationJob: async (jobId) => {
+    const response = await api.get(`/vendor/document-verification/jobs/${jobId}`);
+    return response.data.data;
+  },
+
+  /**
+   * Poll a verification job until it completes or fails
+   * @param {string} jobId - Job id returned by submitVerificationJob
+   * @param {number} intervalMs - Delay between polls
+   * @param {number} timeoutMs - Give up after this long
+   * @returns {Promise} - Verification result
+   */
+  waitForVerificationJob: async (jobId, intervalMs = 2000, timeoutMs = 300000) => {
+    const deadline = Date.now() + timeoutMs;
+    while (Date.now() < deadline) {
+      const job = await documentVerificationService.getVerificationJob(jobId);
+      if (job.status === 'COMPLETED') {
+        return job.result;
+      }
+      if (job.status === 'FAILED') {
+        throw new Error(job.errorMessage || 'Document verification failed');
+      }
+      await new Promise(resolve => setTimeout(resolve, intervalMs));
+    }
+    throw new Error('Document verification is still running, please check back later');
+  },
 };
 
 export default documentVerificationService;
@@ -37,6 +37,50 @@ const notificationService = {
     return response.data;
   },
 
+  // Read the server-sent notification stream until it closes, calling onEvent({ id, type, data }) per event.
+  // fetch is used rather than EventSource so the bearer token can be sent as a header.
+  openStream: async ({ lastEventId, onEvent, signal }) => {
+    const headers = { Accept: 'text/event-stream' };
+    const token = localStorage.getItem('authToken');
+    if (token) headers.Authorization = `Bearer ${token}`;
+    if (lastEventId) headers['Last-Event-ID'] = lastEventId;
+
+    const response = await fetch(`${api.defaults.baseURL}/notifications/stream`, { headers, signal, cache: 'no-store' });
+    if (!response.ok || !response.body) {
+      const error = new Error(`Notification stream failed with status ${response.status}`);
+      error.status = response.status;
+      throw error;
+    }
+
+    const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+    let buffer = '';
+    let event = { id: null, type: 'message', data: [] };
+    for (;;) {
+      const { value, done } = await reader.read();
+      if (done) return;
+      buffer += value;
+      let newline;
+      while ((newline = buffer.indexOf('\n')) >= 0) {
+        const line = buffer.slice(0, newline).replace(/\r$/, '');
+        buffer = buffer.slice(newline + 1);
+        if (line === '') {
+          // A blank line ends the event; comment-only blocks (heartbeats) carry no data
+          if (event.data.length > 0 || event.id) {
+            onEvent({ id: event.id, type: event.type, data: event.data.join('\n') });
+          }
+          event = { id: null, type: 'message', data: [] };
+        } else if (!line.startsWith(':')) {
+          const colon = line.indexOf(':');
+          const field = colon < 0 ? line : line.slice(0, colon);
+          const fieldValue = colon < 0 ? '' : line.slice(colon + 1).replace(/^ /, '');
+          if (field === 'id') event.id = fieldValue;
+          else if (field === 'event') event.type = fieldValue;
+          else if (field === 'data') event.data.push(fieldValue);
+        }
+      }
+    }
+  },
+
   // Delete a notification
   deleteNotification: async (notificationId) => {
     const response = await api.delete(`/notifications/${notificationId}`);
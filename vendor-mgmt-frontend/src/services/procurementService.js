@@ -14,6 +14,34 @@ const procurementService = {
     return response.data;
   },
 
+  // Get one page of active vendors: category, status, createdBy, createdFrom, createdTo,
+  // sort ('name' | 'created' | 'status'), direction ('asc' | 'desc'), cursor, limit, includeTotal
+  getVendorPage: async (filters = {}) => {
+    const params = Object.fromEntries(
+      Object.entries(filters).filter(([, value]) => value !== null && value !== undefined && value !== '')
+    );
+    const response = await api.get('/procurement/vendors/page', { params });
+    return response.data;
+  },
+
+  // Bulk import from a .csv or .xlsx file; returns a per-row report
+  importVendors: async (file) => {
+    const formData = new FormData();
+    formData.append('file', file);
+    const response = await api.post('/procurement/vendors/import', formData, {
+      headers: {
+        'Content-Type': 'multipart/form-data',
+      },
+    });
+    return response.data;
+  },
+
+  // Ranked vendor search; page is zero-based
+  searchVendors: async (q, page = 0, size = 20) => {
+    const response = await api.get('/procurement/vendors/search', { params: { q, page, size } });
+    return response.data;
+  },
+
   // Get vendor by ID
   getVendorById: async (id) => {
     const response = await api.get(`/procurement/vendor/${id}`);
@@ -46,6 +74,12 @@ const procurementService = {
     return response.data;
   },
 
+  // Move many vendors to one status; expectedStatus, when given, limits the update to vendors in that status
+  updateVendorStatuses: async (vendorIds, status, expectedStatus) => {
+    const response = await api.put('/procurement/vendors/status', { vendorIds, status, expectedStatus });
+    return response.data;
+  },
+
   // Resend invitation
   resendInvitation: async (vendorId) => {
     const response = await api.post(`/procurement/vendor/${vendorId}/resend-invitation`);
@@ -82,15 +116,48 @@ const procurementService = {
     return response.data;
   },
 
-  // Get vendor activity log
-  getVendorActivityLog: async (vendorId) => {
-    const response = await api.get(`/procurement/vendor/${vendorId}/activity-log`);
+  // Get one page of a vendor's activity log, newest first; pass the returned nextCursor to continue
+  getVendorActivityLog: async (vendorId, cursor, limit) => {
+    const response = await api.get(`/procurement/vendor/${vendorId}/activity-log`, { params: { cursor, limit } });
     return response.data;
   },
 
-  // Get all activities
-  getAllActivities: async () => {
-    const response = await api.get('/procurement/activity-log/all');
+  // Get one page of activities, newest first. filters: { vendorId, type, actor, from, to, cursor, limit }
+  getActivityLogPage: async (filters = {}) => {
+    const params = Object.fromEntries(
+      Object.entries(filters).filter(([, value]) => value !== null && value !== undefined && value !== '')
+    );
+    const response = await api.get('/procurement/activity-log', { params });
+    return response.data;
+  },
+
+  // Export matching activities as 'csv' or 'ndjson'
+  exportActivityLog: async (format = 'csv', filters = {}) => {
+    const params = Object.fromEntries(
+      Object.entries({ ...filters, format }).filter(([, value]) => value !== null && value !== undefined && value !== '')
+    );
+    const response = await api.get('/procurement/activity-log/export', {
+      params,
+      responseType: 'blob',
+    });
+
+    const url = window.URL.createObjectURL(new Blob([response.data]));
+    const link = document.createElement('a');
+    link.href = url;
+    link.setAttribute('download', `activity_log_${new Date().toISOString().split('T')[0]}.${format}`);
+    document.body.appendChild(link);
+    link.click();
+    link.remove();
+    window.URL.revokeObjectURL(url);
+
+    return { success: true, message: 'Activity log exported successfully' };
+  },
+
+  // Get a vendor's onboarding document (documentType e.g. 'business-details') as a blob
+  getVendorDocument: async (vendorId, documentType) => {
+    const response = await api.get(`/procurement/vendor/${vendorId}/documents/${documentType}`, {
+      responseType: 'blob',
+    });
     return response.data;
   },
 
@@ -136,9 +203,11 @@ const procurementService = {
     return { success: true, message: 'Detailed report exported successfully' };
   },
 
-  // Get vendor analytics
-  getVendorAnalytics: async () => {
-    const response = await api.get('/procurement/analytics');
+  // Get vendor analytics over a window (e.g. '24h', '7d', '90d') bucketed by 'DAY' or 'HOUR'
+  getVendorAnalytics: async (window = '7d', granularity = 'DAY') => {
+    const response = await api.get('/procurement/analytics', {
+      params: { window, granularity },
+    });
     return response.data;
   },
 